@@ -26,14 +26,15 @@ public class App {
     private static int barcosJ2[][] = new int[TAM][TAM];
 
     /**
-     * Número de casillas de barco que quedan por hundir del jugador 1.
+     * Estado de la flota del jugador 1 (barcos a flote y casillas restantes).
      */
-    private static int nBarcos1;
+    private static Flota flotaJ1;
 
     /**
-     * Número de casillas de barco que quedan por hundir del jugador 2.
+     * Estado de la flota del jugador 2.
+     * Igual que {@link #flotaJ1}.
      */
-    private static int nBarcos2;
+    private static Flota flotaJ2;
 
     /**
      * Matriz auxiliar para colocar barcos temporalmente al generar el tablero.
@@ -117,16 +118,14 @@ public class App {
     }
 
     /**
-     * Inicializa los tableros de ambos jugadores, calcula los barcos y solicita el
-     * modo de juego.
+     * Genera los tableros de ambos jugadores junto con sus flotas
+     * ({@link Flota}) y solicita el modo de juego.
      * Dependiendo de la opción elegida, inicia PVP o PVE.
      * 
      * Este método realiza los siguientes pasos:
      * <ol>
-     * <li>Llama a {@link #generarTablero()} para crear los tableros de ambos
-     * jugadores.</li>
-     * <li>Calcula el número total de casillas de barco con
-     * {@link #calcularNBarcos(int[], int[])}.</li>
+     * <li>Llama a {@link #generarTablero(Flota)} para crear los tableros de ambos
+     * jugadores junto con el registro de sus flotas.</li>
      * <li>Muestra ambos tableros completos.</li>
      * <li>Muestra el menú de selección de juego y ejecuta el modo
      * seleccionado.</li>
@@ -136,11 +135,10 @@ public class App {
      *                inicia en el modo seleccionado.
      */
     public static void prepararJuego() {
-        barcosJ1 = generarTablero();
-        barcosJ2 = generarTablero();
-
-        nBarcos1 = calcularNBarcos(cantidad, tamanios);
-        nBarcos2 = calcularNBarcos(cantidad, tamanios);
+        flotaJ1 = new Flota();
+        flotaJ2 = new Flota();
+        barcosJ1 = generarTablero(flotaJ1);
+        barcosJ2 = generarTablero(flotaJ2);
 
         System.out.println("TABLERO JUGADOR 1 GENERADO:");
         mostrarTablero(barcosJ1);
@@ -157,36 +155,19 @@ public class App {
         }
     }
 
-    /**
-     * Calcula el número total de casillas de barco dadas las cantidades y tamaños
-     * de barcos.
-     *
-     * @param cantidades Array con la cantidad de barcos por tipo.
-     * @param tamanios   Array con los tamaños de los barcos correspondientes.
-     * @return Total de casillas de barco.
-     * @precondición {@code cantidades.length == tamanios.length}.
-     */
-    public static int calcularNBarcos(int[] cantidades, int[] tamanios) {
-        int total = 0;
-        for (int i = 0; i < tamanios.length; i++) {
-            total += cantidades[i] * tamanios[i];
-        }
-        return total;
-    }
-
     /**
      * Ejecuta el modo Jugador vs Jugador.
      * Permite que ambos jugadores disparen alternativamente hasta que uno gane.
      *
      * @precondición Los tableros de ambos jugadores deben estar inicializados.
-     * @postcondición El juego termina cuando {@link #nBarcos1} o {@link #nBarcos2}
-     *                llega a 0.
+     * @postcondición El juego termina cuando la flota de uno de los dos jugadores
+     *                queda hundida ({@link Flota#hundida()}).
      */
     public static void jugarPVP() {
         System.out.println("\n--- INICIO MODO PVP ---");
         boolean turnoJ1 = true;
 
-        while (nBarcos1 > 0 && nBarcos2 > 0) {
+        while (!flotaJ1.hundida() && !flotaJ2.hundida()) {
             if (turnoJ1) {
                 System.out.println("\n>> TURNO JUGADOR 1");
                 mostrarJugador1();
@@ -196,8 +177,7 @@ public class App {
 
                 if (disparar(barcosJ2, x, y)) {
                     System.out.println(ANSI_GREEN + "¡TOCADO!" + ANSI_WHITE);
-                    nBarcos2--;
-                    if (cantarDisparo(barcosJ2, x, y)) {
+                    if (flotaJ2.registrarImpacto(x, y)) {
                         System.out.println(ANSI_RED + "¡HUNDIDO!" + ANSI_WHITE);
                     }
                 } else {
@@ -212,8 +192,7 @@ public class App {
 
                 if (disparar(barcosJ1, x, y)) {
                     System.out.println(ANSI_GREEN + "¡TOCADO!" + ANSI_WHITE);
-                    nBarcos1--;
-                    if (cantarDisparo(barcosJ1, x, y)) {
+                    if (flotaJ1.registrarImpacto(x, y)) {
                         System.out.println(ANSI_RED + "¡HUNDIDO!" + ANSI_WHITE);
                     }
                 } else {
@@ -223,7 +202,7 @@ public class App {
             turnoJ1 = !turnoJ1;
         }
 
-        if (nBarcos1 > 0) {
+        if (!flotaJ1.hundida()) {
             System.out.println("\n¡JUGADOR 1 GANA!");
         } else {
             System.out.println("\n¡JUGADOR 2 GANA!");
@@ -232,18 +211,19 @@ public class App {
 
     /**
      * Ejecuta el modo Jugador vs Máquina.
-     * La máquina dispara aleatoriamente.
+     * La máquina dispara aleatoriamente, descartando las casillas junto a barcos
+     * ya hundidos (ver {@link #juntoAHundido(Flota, int, int)}).
      *
      * @precondición Los tableros de ambos jugadores deben estar inicializados.
-     * @postcondición El juego termina cuando {@link #nBarcos1} o {@link #nBarcos2}
-     *                llega a 0.
+     * @postcondición El juego termina cuando la flota de uno de los dos jugadores
+     *                queda hundida ({@link Flota#hundida()}).
      */
     public static void jugarPVE() {
         System.out.println("\n--- INICIO MODO PVE ---");
         boolean turnoJ1 = true;
         Random r = new Random();
 
-        while (nBarcos1 > 0 && nBarcos2 > 0) {
+        while (!flotaJ1.hundida() && !flotaJ2.hundida()) {
             if (turnoJ1) {
                 System.out.println("\n>> TURNO JUGADOR 1");
                 mostrarJugador1();
@@ -253,8 +233,7 @@ public class App {
 
                 if (disparar(barcosJ2, x, y)) {
                     System.out.println(ANSI_GREEN + "¡TOCADO!" + ANSI_WHITE);
-                    nBarcos2--;
-                    if (cantarDisparo(barcosJ2, x, y)) {
+                    if (flotaJ2.registrarImpacto(x, y)) {
                         System.out.println(ANSI_RED + "¡HUNDIDO!" + ANSI_WHITE);
                     }
                 } else {
@@ -264,17 +243,17 @@ public class App {
                 System.out.println("\n>> TURNO MÁQUINA");
                 int x, y;
                 // IA simple: dispara aleatorio hasta encontrar hueco no disparado
+                // que no esté pegado a un barco hundido (ahí solo puede haber agua)
                 do {
                     x = r.nextInt(TAM);
                     y = r.nextInt(TAM);
-                } while (barcosJ1[x][y] == 6 || barcosJ1[x][y] == 7);
+                } while (barcosJ1[x][y] == 6 || barcosJ1[x][y] == 7 || juntoAHundido(flotaJ1, x, y));
 
                 System.out.println("La máquina dispara a: " + x + " " + y);
 
                 if (disparar(barcosJ1, x, y)) {
                     System.out.println(ANSI_RED + "¡TE HAN TOCADO!" + ANSI_WHITE);
-                    nBarcos1--;
-                    if (cantarDisparo(barcosJ1, x, y)) {
+                    if (flotaJ1.registrarImpacto(x, y)) {
                         System.out.println(ANSI_RED + "¡BARCO HUNDIDO POR LA MÁQUINA!" + ANSI_WHITE);
                     }
                 } else {
@@ -284,13 +263,35 @@ public class App {
             turnoJ1 = !turnoJ1;
         }
 
-        if (nBarcos1 > 0) {
+        if (!flotaJ1.hundida()) {
             System.out.println("\n¡JUGADOR 1 GANA!");
         } else {
             System.out.println("\n¡LA MÁQUINA GANA!");
         }
     }
 
+    /**
+     * Comprueba si la casilla (x,y) o alguna de sus vecinas (también en
+     * diagonal) pertenece a un barco ya hundido. Como los barcos nunca se tocan,
+     * en ese caso la casilla solo puede ser agua.
+     *
+     * @param flota Flota del tablero donde se dispara.
+     * @param x     Fila de la casilla.
+     * @param y     Columna de la casilla.
+     * @return {@code true} si la casilla está junto a un barco hundido.
+     * @precondición {@code 0 <= x < TAM && 0 <= y < TAM}.
+     */
+    public static boolean juntoAHundido(Flota flota, int x, int y) {
+        for (int i = x - 1; i <= x + 1; i++) {
+            for (int j = y - 1; j <= y + 1; j++) {
+                if (i >= 0 && i < TAM && j >= 0 && j < TAM && flota.hundidoEn(i, j)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Realiza un disparo sobre el tablero especificado.
      *
@@ -322,55 +323,6 @@ public class App {
         }
     }
 
-    /**
-     * Determina si un barco ha sido tocado o hundido a partir de la casilla
-     * disparada.
-     *
-     * @param matriz Tablero donde se encuentra el barco.
-     * @param x      Coordenada X (fila) del disparo.
-     * @param y      Coordenada Y (columna) del disparo.
-     * @return {@code true} si el barco está completamente hundido, {@code false} si
-     *         solo ha sido tocado.
-     */
-    public static boolean cantarDisparo(int[][] matriz, int x, int y) {
-        // Algoritmo de inundación (BFS/DFS) para ver si el componente conexo de 6s
-        // tiene algún vecino que sea barco intacto (1-5).
-
-        // Matriz de visitados para no ciclar
-        boolean[][] visitado = new boolean[TAM][TAM];
-        return checkHundido(matriz, x, y, visitado);
-    }
-
-    private static boolean checkHundido(int[][] matriz, int x, int y, boolean[][] visitado) {
-        if (x < 0 || x >= TAM || y < 0 || y >= TAM)
-            return true; // Fuera del tablero es "seguro"
-        if (visitado[x][y])
-            return true;
-        visitado[x][y] = true;
-
-        int val = matriz[x][y];
-
-        // Si encontramos una parte de barco intacta, NO está hundido
-        if (val >= 1 && val <= 5)
-            return false;
-
-        // Si es agua o agua disparada, es un límite, no seguimos buscando por aquí
-        if (val == 0 || val == 7)
-            return true;
-
-        // Si es 6 (tocado), seguimos buscando en sus vecinos
-        if (val == 6) {
-            boolean arriba = checkHundido(matriz, x - 1, y, visitado);
-            boolean abajo = checkHundido(matriz, x + 1, y, visitado);
-            boolean izquierda = checkHundido(matriz, x, y - 1, visitado);
-            boolean derecha = checkHundido(matriz, x, y + 1, visitado);
-
-            return arriba && abajo && izquierda && derecha;
-        }
-
-        return true;
-    }
-
     // #region Preparación del tablero
 
     /**
@@ -382,17 +334,20 @@ public class App {
      * tamaño.</li>
      * <li>Se elige una posición aleatoria y una dirección válida usando
      * {@link #comprobarDirecciones(int, int, int)}.</li>
-     * <li>Se coloca el barco con {@link #copiarBarcoEn(int, int, int, int)}.</li>
+     * <li>Se coloca el barco con {@link #copiarBarcoEn(int, int, int, int)} y se
+     * anota en la flota con {@link Flota#registrarBarco(int, int, int, int)}.</li>
      * </ul>
      *
+     * @param flota Flota vacía donde se registran los barcos colocados.
      * @return Matriz {@link int[][]} de tamaño {@link #TAM} x {@link #TAM} con los
      *         barcos colocados.
      *         0 = agua, 1-5 = barco sin tocar.
      * @precondición {@link #TAM} debe ser mayor que 0.
-     * @postcondición {@link #matrizAux} queda reiniciada a cero y se devuelve un
-     *                tablero completo.
+     * @postcondición {@link #matrizAux} queda reiniciada a cero, se devuelve un
+     *                tablero completo y {@code flota} contiene exactamente sus
+     *                barcos.
      */
-    public static int[][] generarTablero() {
+    public static int[][] generarTablero(Flota flota) {
         Random r = new Random();
         int x, y, direccion = -1;
 
@@ -410,6 +365,7 @@ public class App {
                     if (intentos > 1000) {
                         // Si falla mucho, reiniciamos todo el tablero (estrategia simple)
                         matrizAux = new int[TAM][TAM];
+                        flota.reiniciar();
                         i = cantidad.length - 1;
                         j = -1; // Se incrementará a 0 en el bucle
                         break;
@@ -418,6 +374,7 @@ public class App {
 
                 if (intentos <= 1000) {
                     copiarBarcoEn(x, y, direccion, tamanios[i]);
+                    flota.registrarBarco(x, y, direccion, i);
                 }
             }
         }
@@ -529,6 +486,159 @@ public class App {
 
     // #endregion
 
+    // #region Registro de la flota
+
+    /**
+     * Registro de la flota de un jugador.
+     * 
+     * Se rellena al generar el tablero con
+     * {@link #generarTablero(Flota)} y guarda, para cada barco, los impactos que
+     * le quedan. Así cada disparo se anota en tiempo constante y se puede saber
+     * qué barcos siguen a flote sin recorrer el tablero.
+     */
+    public static class Flota {
+        /**
+         * Identificador del barco que ocupa cada casilla (-1 = agua).
+         */
+        private final int[][] idBarco = new int[TAM][TAM];
+
+        /**
+         * Impactos que le faltan a cada barco para hundirse, por identificador.
+         */
+        private final int[] vidaBarco;
+
+        /**
+         * Tipo de cada barco (índice en {@link #tamanios}), por identificador.
+         */
+        private final int[] tipoBarco;
+
+        /**
+         * Número de barcos registrados (siguiente identificador libre).
+         */
+        private int nBarcos;
+
+        /**
+         * Barcos a flote por tipo (mismo índice que {@link #cantidad}).
+         */
+        private final int[] aFlote = new int[tamanios.length];
+
+        /**
+         * Número de casillas de barco que quedan por tocar.
+         */
+        private int casillasRestantes;
+
+        /**
+         * Crea una flota vacía con capacidad para todos los barcos de
+         * {@link #cantidad}.
+         */
+        public Flota() {
+            int total = 0;
+            for (int i = 0; i < cantidad.length; i++) {
+                total += cantidad[i];
+            }
+            vidaBarco = new int[total];
+            tipoBarco = new int[total];
+            reiniciar();
+        }
+
+        /**
+         * Elimina todos los barcos registrados.
+         *
+         * @postcondición La flota queda vacía y todas las casillas como agua.
+         */
+        public void reiniciar() {
+            for (int i = 0; i < TAM; i++) {
+                for (int j = 0; j < TAM; j++) {
+                    idBarco[i][j] = -1;
+                }
+            }
+            for (int i = 0; i < aFlote.length; i++) {
+                aFlote[i] = 0;
+            }
+            nBarcos = 0;
+            casillasRestantes = 0;
+        }
+
+        /**
+         * Anota un barco colocado en la posición (x,y) siguiendo la dirección
+         * indicada.
+         *
+         * @param x         Fila inicial.
+         * @param y         Columna inicial.
+         * @param direccion Dirección del barco
+         *                  (0=arriba,1=derecha,2=abajo,3=izquierda).
+         * @param tipo      Tipo del barco (índice en {@link #tamanios}).
+         * @precondición El barco cabe en el tablero y no se han registrado más
+         *               barcos de los indicados en {@link #cantidad}.
+         */
+        public void registrarBarco(int x, int y, int direccion, int tipo) {
+            int tamanio = tamanios[tipo];
+            for (int i = 0; i < tamanio; i++) {
+                idBarco[x + direcciones[direccion][0] * i][y + direcciones[direccion][1] * i] = nBarcos;
+            }
+            vidaBarco[nBarcos] = tamanio;
+            tipoBarco[nBarcos] = tipo;
+            nBarcos++;
+            aFlote[tipo]++;
+            casillasRestantes += tamanio;
+        }
+
+        /**
+         * Anota un impacto en la casilla (x,y).
+         *
+         * @param x Fila del disparo.
+         * @param y Columna del disparo.
+         * @return {@code true} si el impacto hunde el barco, {@code false} si solo
+         *         lo toca.
+         * @precondición {@link App#disparar(int[][], int, int)} ha devuelto
+         *               {@code true} para esta misma casilla.
+         */
+        public boolean registrarImpacto(int x, int y) {
+            int id = idBarco[x][y];
+            casillasRestantes--;
+            vidaBarco[id]--;
+            if (vidaBarco[id] == 0) {
+                aFlote[tipoBarco[id]]--;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * @param tipo Tipo de barco (índice en {@link #tamanios}).
+         * @return Número de barcos de ese tipo que siguen a flote.
+         */
+        public int barcosAFlote(int tipo) {
+            return aFlote[tipo];
+        }
+
+        /**
+         * @param x Fila de la casilla.
+         * @param y Columna de la casilla.
+         * @return {@code true} si en la casilla hay un barco ya hundido.
+         */
+        public boolean hundidoEn(int x, int y) {
+            int id = idBarco[x][y];
+            return id != -1 && vidaBarco[id] == 0;
+        }
+
+        /**
+         * @return Número de casillas de barco que quedan por tocar.
+         */
+        public int casillasRestantes() {
+            return casillasRestantes;
+        }
+
+        /**
+         * @return {@code true} si todos los barcos de la flota están hundidos.
+         */
+        public boolean hundida() {
+            return casillasRestantes == 0;
+        }
+    }
+
+    // #endregion
+
     /**
      * Muestra por consola el tablero completo, incluyendo barcos y disparos.
      *
@@ -578,6 +688,9 @@ public class App {
 
         System.out.println("\n--- TABLERO RIVAL (JUGADOR 2) ---");
         mostrarTableroOculto(barcosJ2);
+
+        System.out.println("\n--- FLOTA RIVAL (JUGADOR 2) ---");
+        mostrarFlota(flotaJ2);
     }
 
     /**
@@ -590,6 +703,9 @@ public class App {
 
         System.out.println("\n--- TABLERO RIVAL (JUGADOR 1) ---");
         mostrarTableroOculto(barcosJ1);
+
+        System.out.println("\n--- FLOTA RIVAL (JUGADOR 1) ---");
+        mostrarFlota(flotaJ1);
     }
 
     /**
@@ -628,6 +744,20 @@ public class App {
         }
     }
 
+    /**
+     * Muestra por consola cuántos barcos de cada tipo siguen a flote.
+     *
+     * @param flota Flota a mostrar.
+     */
+    public static void mostrarFlota(Flota flota) {
+        for (int i = 0; i < tamanios.length; i++) {
+            int quedan = flota.barcosAFlote(i);
+            String color = quedan > 0 ? ANSI_GREEN : ANSI_RED;
+            System.out.println(color + nombres[i] + " (" + tamanios[i] + "): " + quedan + "/" + cantidad[i]
+                    + ANSI_WHITE);
+        }
+    }
+
     /**
      * Lee las coordenadas de disparo del usuario de forma robusta.
      * 